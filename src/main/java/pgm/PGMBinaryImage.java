@@ -0,0 +1,214 @@
+package pgm;
+
+/**
+ * Représente une image binaire (noir &amp; blanc) stockée sur 1 bit par pixel.
+ *
+ * <p>
+ * Chaque ligne est rangée dans {@code wordsPerRow} mots de 64 bits consécutifs
+ * du tableau {@code bits} : le pixel {@code (x, y)} correspond au bit
+ * {@code x % 64} du mot {@code y * wordsPerRow + x / 64}. Un bit à 1 représente
+ * un pixel blanc (255), un bit à 0 un pixel noir (0). Les bits de remplissage
+ * en fin de ligne sont toujours à 0.
+ * </p>
+ *
+ * <p>
+ * Par rapport à un {@link PGMImage} ne contenant que 0 et 255, cette
+ * représentation occupe 32 fois moins de mémoire et permet de combiner deux
+ * masques 64 pixels à la fois (ET, OU, OU exclusif, NON).
+ * </p>
+ *
+ * Exemple d'utilisation :
+ * <pre>
+ *     PGMImage img = PGMReader.read("coins.pgm");
+ *     PGMBinaryImage masque = PGMThreshold.thresholdBinary(img, 120);
+ *     System.out.println("Pixels blancs : " + masque.popCount());
+ * </pre>
+ *
+ * @author hayta
+ */
+public class PGMBinaryImage {
+
+    /** Largeur de l'image en pixels. */
+    public final int width;
+
+    /** Hauteur de l'image en pixels. */
+    public final int height;
+
+    /** Nombre de mots de 64 bits utilisés pour stocker une ligne. */
+    public final int wordsPerRow;
+
+    /** Bits des pixels, ligne par ligne (voir la description de la classe). */
+    public final long[] bits;
+
+    /**
+     * Constructeur pour initialiser une nouvelle image binaire entièrement noire.
+     *
+     * @param width  La largeur souhaitée de l'image.
+     * @param height La hauteur souhaitée de l'image.
+     */
+    public PGMBinaryImage(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.bits = new long[height * wordsPerRow];
+    }
+
+    /**
+     * Indique si le pixel {@code (x, y)} est blanc.
+     *
+     * @param x La colonne du pixel.
+     * @param y La ligne du pixel.
+     * @return {@code true} si le pixel vaut 1 (blanc).
+     * @throws IndexOutOfBoundsException Si {@code (x, y)} est hors de l'image.
+     */
+    public boolean get(int x, int y) {
+        checkBounds(x, y);
+        return (bits[y * wordsPerRow + (x >>> 6)] & (1L << x)) != 0;
+    }
+
+    /**
+     * Modifie la valeur du pixel {@code (x, y)}.
+     *
+     * @param x     La colonne du pixel.
+     * @param y     La ligne du pixel.
+     * @param blanc {@code true} pour mettre le pixel à 1 (blanc), {@code false} pour 0 (noir).
+     * @throws IndexOutOfBoundsException Si {@code (x, y)} est hors de l'image, ce qui
+     *                                   protège notamment les bits de remplissage.
+     */
+    public void set(int x, int y, boolean blanc) {
+        checkBounds(x, y);
+        int i = y * wordsPerRow + (x >>> 6);
+        if (blanc) {
+            bits[i] |= 1L << x;
+        } else {
+            bits[i] &= ~(1L << x);
+        }
+    }
+
+    /**
+     * Compte le nombre de pixels blancs de l'image.
+     *
+     * @return Le nombre de bits à 1.
+     */
+    public long popCount() {
+        long n = 0;
+        for (long mot : bits) {
+            n += Long.bitCount(mot);
+        }
+        return n;
+    }
+
+    /**
+     * Calcule le ET logique pixel à pixel avec une autre image binaire.
+     *
+     * @param other La seconde image (mêmes dimensions).
+     * @return Une nouvelle image binaire. Les images d'entrée ne sont pas modifiées.
+     * @throws IllegalArgumentException Si les dimensions des deux images sont différentes.
+     */
+    public PGMBinaryImage and(PGMBinaryImage other) {
+        checkDimensions(other);
+        PGMBinaryImage out = new PGMBinaryImage(width, height);
+        for (int i = 0; i < bits.length; i++) {
+            out.bits[i] = bits[i] & other.bits[i];
+        }
+        return out;
+    }
+
+    /**
+     * Calcule le OU logique pixel à pixel avec une autre image binaire.
+     *
+     * @param other La seconde image (mêmes dimensions).
+     * @return Une nouvelle image binaire. Les images d'entrée ne sont pas modifiées.
+     * @throws IllegalArgumentException Si les dimensions des deux images sont différentes.
+     */
+    public PGMBinaryImage or(PGMBinaryImage other) {
+        checkDimensions(other);
+        PGMBinaryImage out = new PGMBinaryImage(width, height);
+        for (int i = 0; i < bits.length; i++) {
+            out.bits[i] = bits[i] | other.bits[i];
+        }
+        return out;
+    }
+
+    /**
+     * Calcule le OU exclusif pixel à pixel avec une autre image binaire,
+     * c'est-à-dire l'ensemble des pixels qui diffèrent entre les deux masques.
+     *
+     * @param other La seconde image (mêmes dimensions).
+     * @return Une nouvelle image binaire. Les images d'entrée ne sont pas modifiées.
+     * @throws IllegalArgumentException Si les dimensions des deux images sont différentes.
+     */
+    public PGMBinaryImage xor(PGMBinaryImage other) {
+        checkDimensions(other);
+        PGMBinaryImage out = new PGMBinaryImage(width, height);
+        for (int i = 0; i < bits.length; i++) {
+            out.bits[i] = bits[i] ^ other.bits[i];
+        }
+        return out;
+    }
+
+    /**
+     * Calcule le négatif de l'image (NON logique pixel à pixel).
+     *
+     * @return Une nouvelle image binaire. L'image d'entrée n'est pas modifiée.
+     */
+    public PGMBinaryImage not() {
+        PGMBinaryImage out = new PGMBinaryImage(width, height);
+        if (wordsPerRow == 0) {
+            return out;
+        }
+        // Masque du dernier mot de chaque ligne, pour garder les bits de remplissage à 0
+        long masqueFin = (width & 63) == 0 ? -1L : (1L << width) - 1;
+        for (int y = 0; y < height; y++) {
+            int debut = y * wordsPerRow;
+            for (int k = 0; k < wordsPerRow; k++) {
+                out.bits[debut + k] = ~bits[debut + k];
+            }
+            out.bits[debut + wordsPerRow - 1] &= masqueFin;
+        }
+        return out;
+    }
+
+    /**
+     * Convertit l'image binaire en image PGM (0 pour noir, 255 pour blanc),
+     * par exemple pour l'afficher ou l'enregistrer avec {@link PGMWriter}.
+     *
+     * @return Une nouvelle image PGM de mêmes dimensions.
+     */
+    public PGMImage toPGMImage() {
+        PGMImage out = new PGMImage(width, height);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                out.pixels[y][x] = get(x, y) ? 255 : 0;
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Vérifie que le pixel {@code (x, y)} appartient à l'image.
+     *
+     * @param x La colonne du pixel.
+     * @param y La ligne du pixel.
+     * @throws IndexOutOfBoundsException Si le pixel est hors de l'image.
+     */
+    private void checkBounds(int x, int y) {
+        if (x < 0 || x >= width || y < 0 || y >= height) {
+            throw new IndexOutOfBoundsException("Erreur : pixel (" + x + ", " + y
+                + ") hors de l'image " + width + "x" + height);
+        }
+    }
+
+    /**
+     * Vérifie que l'image donnée a les mêmes dimensions que celle-ci.
+     *
+     * @param other L'image à comparer.
+     * @throws IllegalArgumentException Si les dimensions sont différentes.
+     */
+    private void checkDimensions(PGMBinaryImage other) {
+        if (width != other.width || height != other.height) {
+            throw new IllegalArgumentException("Erreur : Les dimensions des images sont différentes ("
+                + width + "x" + height + " vs " + other.width + "x" + other.height + ")");
+        }
+    }
+}
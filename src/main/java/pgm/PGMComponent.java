@@ -0,0 +1,60 @@
+package pgm;
+
+/**
+ * Décrit une composante connexe d'une image binaire, telle que calculée par
+ * {@link PGMLabeling} : son étiquette, sa surface, sa boîte englobante et
+ * son centre de gravité.
+ *
+ * @author hayta
+ */
+public class PGMComponent {
+
+    /** Étiquette de la composante (à partir de 1, 0 étant réservé au fond). */
+    public int label;
+
+    /** Nombre de pixels de la composante. */
+    public int area;
+
+    /** Colonne minimale de la boîte englobante (incluse). */
+    public int minX;
+
+    /** Ligne minimale de la boîte englobante (incluse). */
+    public int minY;
+
+    /** Colonne maximale de la boîte englobante (incluse). */
+    public int maxX;
+
+    /** Ligne maximale de la boîte englobante (incluse). */
+    public int maxY;
+
+    /** Abscisse du centre de gravité (moyenne des colonnes des pixels). */
+    public double centroidX;
+
+    /** Ordonnée du centre de gravité (moyenne des lignes des pixels). */
+    public double centroidY;
+
+    /**
+     * Constructeur créant une composante réduite à un premier pixel.
+     *
+     * @param label L'étiquette de la composante.
+     * @param x     La colonne du premier pixel.
+     * @param y     La ligne du premier pixel.
+     */
+    public PGMComponent(int label, int x, int y) {
+        this.label = label;
+        this.area = 1;
+        this.minX = x;
+        this.minY = y;
+        this.maxX = x;
+        this.maxY = y;
+        this.centroidX = x;
+        this.centroidY = y;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + label + " : surface " + area
+            + ", boîte [" + minX + "," + minY + "]-[" + maxX + "," + maxY + "]"
+            + ", centre (" + String.format("%.1f", centroidX) + ", " + String.format("%.1f", centroidY) + ")";
+    }
+}
@@ -31,6 +31,9 @@ package pgm;
  */
 public class PGMHistogram {
 
+    /** Nombre de niveaux de gris d'une image PGM 8 bits (taille de l'histogramme). */
+    public static final int NB_NIVEAUX = 256;
+
     /**
      * Calcule l'histogramme d'une image PGM passée en paramètre.
      * 
@@ -52,7 +55,7 @@ public class PGMHistogram {
      *         <br>Jamais {@code null}.
      */
     public static int[] computeHistogram(PGMImage img) {
-        int[] hist = new int[256];
+        int[] hist = new int[NB_NIVEAUX];
 
         for (int i = 0; i < img.height; i++) {
             for (int j = 0; j < img.width; j++) {
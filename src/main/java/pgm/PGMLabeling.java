@@ -0,0 +1,228 @@
+package pgm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Résultat de l'étiquetage en composantes connexes d'une image binaire.
+ *
+ * <p>
+ * Chaque ensemble de pixels blancs connectés reçoit une étiquette distincte
+ * (1, 2, 3...) dans {@code labels[y][x]}, le fond noir gardant l'étiquette 0.
+ * Les étiquettes sont attribuées dans l'ordre de lecture (ligne par ligne) du
+ * premier pixel de chaque composante, et {@code components.get(k - 1)} décrit
+ * la composante d'étiquette {@code k}. Cela permet par exemple de compter et
+ * de mesurer les pièces d'une image « coins » après seuillage.
+ * </p>
+ *
+ * <p>
+ * L'étiquetage utilise une structure union-find sur les indices de pixels
+ * {@code y * width + x}, la racine d'une composante étant toujours son plus
+ * petit indice. L'image est découpée en bandes de lignes étiquetées en
+ * parallèle ; les composantes coupées par une frontière de bande sont ensuite
+ * fusionnées, puis une dernière passe attribue les étiquettes et calcule
+ * surface, boîte englobante et centre de gravité.
+ * </p>
+ *
+ * Exemple d'utilisation :
+ * <pre>
+ *     PGMImage img = PGMReader.read("coins.pgm");
+ *     PGMBinaryImage masque = PGMThreshold.thresholdBinary(img, 120);
+ *     PGMLabeling cc = PGMLabeling.label(masque, 8);
+ *     System.out.println("Nombre de pièces : " + cc.components.size());
+ * </pre>
+ *
+ * @author hayta
+ */
+public class PGMLabeling {
+
+    /** Hauteur minimale d'une bande de lignes traitée par une même tâche. */
+    private static final int HAUTEUR_MIN_BANDE = 16;
+
+    /** Largeur de l'image étiquetée. */
+    public final int width;
+
+    /** Hauteur de l'image étiquetée. */
+    public final int height;
+
+    /** Étiquette de chaque pixel, accès sous la forme {@code labels[y][x]} (0 pour le fond). */
+    public final int[][] labels;
+
+    /** Description des composantes, dans l'ordre de leurs étiquettes. */
+    public final List<PGMComponent> components;
+
+    /**
+     * Constructeur interne, utiliser {@link #label(PGMBinaryImage, int)}.
+     *
+     * @param width  La largeur de l'image.
+     * @param height La hauteur de l'image.
+     */
+    private PGMLabeling(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.labels = new int[height][width];
+        this.components = new ArrayList<>();
+    }
+
+    /**
+     * Étiquette les composantes connexes des pixels blancs d'une image binaire.
+     *
+     * @param img        L'image binaire à analyser.
+     * @param connexite  4 (voisins horizontaux et verticaux) ou 8 (voisins diagonaux inclus).
+     * @return Les étiquettes et la description des composantes. Jamais {@code null}.
+     *         L'image d'entrée n'est pas modifiée.
+     * @throws IllegalArgumentException Si la connexité n'est ni 4 ni 8.
+     */
+    public static PGMLabeling label(PGMBinaryImage img, int connexite) {
+        if (connexite != 4 && connexite != 8) {
+            throw new IllegalArgumentException("Erreur : connexité " + connexite + " invalide (4 ou 8)");
+        }
+        boolean diagonales = connexite == 8;
+        int w = img.width;
+        int h = img.height;
+        PGMLabeling out = new PGMLabeling(w, h);
+        if (w == 0 || h == 0) {
+            return out;
+        }
+
+        int[] parent = new int[w * h];
+
+        // 1. Étiquetage provisoire de chaque bande en parallèle : une bande ne
+        //    manipule que les indices de ses propres lignes.
+        int nbBandes = Math.max(1, Math.min(
+            Runtime.getRuntime().availableProcessors() * 4,
+            h / HAUTEUR_MIN_BANDE));
+        int hauteurBande = (h + nbBandes - 1) / nbBandes;
+
+        IntStream.range(0, nbBandes).parallel().forEach(b -> {
+            int y0 = b * hauteurBande;
+            int y1 = Math.min(h, y0 + hauteurBande);
+            for (int y = y0; y < y1; y++) {
+                scanRow(img, parent, y, y > y0, diagonales, true);
+            }
+        });
+
+        // 2. Fusion des composantes de part et d'autre de chaque frontière de bande
+        for (int y = hauteurBande; y < h; y += hauteurBande) {
+            scanRow(img, parent, y, true, diagonales, false);
+        }
+
+        // 3. Attribution des étiquettes définitives et mesure des composantes.
+        //    La racine étant le plus petit indice, elle est rencontrée en premier.
+        for (int y = 0; y < h; y++) {
+            int debut = y * img.wordsPerRow;
+            for (int k = 0; k < img.wordsPerRow; k++) {
+                long mot = img.bits[debut + k];
+                while (mot != 0) {
+                    int x = (k << 6) + Long.numberOfTrailingZeros(mot);
+                    mot &= mot - 1;
+
+                    int i = y * w + x;
+                    int r = find(parent, i);
+                    if (r == i) {
+                        PGMComponent c = new PGMComponent(out.components.size() + 1, x, y);
+                        out.components.add(c);
+                        out.labels[y][x] = c.label;
+                    } else {
+                        int lbl = out.labels[r / w][r % w];
+                        out.labels[y][x] = lbl;
+                        PGMComponent c = out.components.get(lbl - 1);
+                        c.area++;
+                        c.minX = Math.min(c.minX, x);
+                        c.maxX = Math.max(c.maxX, x);
+                        c.maxY = y;
+                        // Les sommes des coordonnées sont cumulées ici, puis divisées par la surface
+                        c.centroidX += x;
+                        c.centroidY += y;
+                    }
+                }
+            }
+        }
+        for (PGMComponent c : out.components) {
+            c.centroidX /= c.area;
+            c.centroidY /= c.area;
+        }
+        return out;
+    }
+
+    /**
+     * Parcourt les pixels blancs d'une ligne et les unit à leurs voisins déjà
+     * visités (à gauche et, si demandé, sur la ligne du dessus).
+     *
+     * @param img        L'image binaire.
+     * @param parent     Le tableau union-find.
+     * @param y          La ligne à parcourir.
+     * @param dessus     {@code true} pour considérer les voisins de la ligne {@code y - 1}.
+     * @param diagonales {@code true} pour la connexité 8.
+     * @param init       {@code true} lors du premier passage sur la ligne : initialise
+     *                   chaque pixel comme sa propre racine et l'unit à son voisin de gauche.
+     */
+    private static void scanRow(PGMBinaryImage img, int[] parent, int y,
+                                boolean dessus, boolean diagonales, boolean init) {
+        int w = img.width;
+        int debut = y * img.wordsPerRow;
+        for (int k = 0; k < img.wordsPerRow; k++) {
+            long mot = img.bits[debut + k];
+            while (mot != 0) {
+                int x = (k << 6) + Long.numberOfTrailingZeros(mot);
+                mot &= mot - 1;
+
+                int i = y * w + x;
+                if (init) {
+                    parent[i] = i;
+                    if (x > 0 && img.get(x - 1, y)) {
+                        union(parent, i, i - 1);
+                    }
+                }
+                if (dessus) {
+                    if (img.get(x, y - 1)) {
+                        union(parent, i, i - w);
+                    }
+                    if (diagonales) {
+                        if (x > 0 && img.get(x - 1, y - 1)) {
+                            union(parent, i, i - w - 1);
+                        }
+                        if (x + 1 < w && img.get(x + 1, y - 1)) {
+                            union(parent, i, i - w + 1);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Recherche la racine d'un pixel, en raccourcissant le chemin parcouru
+     * (chaque nœud pointe ensuite vers son grand-parent).
+     *
+     * @param parent Le tableau union-find.
+     * @param i      L'indice du pixel.
+     * @return L'indice de la racine de sa composante.
+     */
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    /**
+     * Réunit les composantes de deux pixels ; la plus petite racine devient
+     * la racine commune.
+     *
+     * @param parent Le tableau union-find.
+     * @param a      L'indice du premier pixel.
+     * @param b      L'indice du second pixel.
+     */
+    private static void union(int[] parent, int a, int b) {
+        int ra = find(parent, a);
+        int rb = find(parent, b);
+        if (ra < rb) {
+            parent[rb] = ra;
+        } else if (rb < ra) {
+            parent[ra] = rb;
+        }
+    }
+}
@@ -0,0 +1,283 @@
+package pgm;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Classe utilitaire appliquant un filtre médian (ou plus généralement un
+ * filtre de rang) à une image PGM, typiquement pour supprimer le bruit
+ * impulsionnel avant un seuillage avec {@link PGMThreshold}.
+ *
+ * <p>
+ * Pour chaque pixel, on considère la fenêtre carrée de rayon {@code r}
+ * (côté {@code 2r+1}) centrée sur lui, et on remplace sa valeur par la
+ * valeur de rang donné parmi les pixels de la fenêtre (le rang médian
+ * pour le filtre médian). Les bords sont traités en répliquant les
+ * pixels extrêmes de l'image.
+ * </p>
+ *
+ * <p>
+ * Plutôt que de trier la fenêtre pour chaque pixel, l'algorithme
+ * (Huang, Perreault &amp; Hébert) maintient de façon incrémentale :
+ * </p>
+ * <ul>
+ *   <li>un histogramme de {@link PGMHistogram#NB_NIVEAUX} cases par colonne,
+ *       mis à jour d'un pixel ajouté et d'un pixel retiré à chaque ligne ;</li>
+ *   <li>un histogramme de la fenêtre, mis à jour en ajoutant la colonne qui
+ *       entre et en retirant celle qui sort à chaque déplacement vers la droite.</li>
+ * </ul>
+ * <p>
+ * Chaque histogramme est doublé d'un histogramme grossier de 16 cases pour
+ * accélérer la recherche du rang. Le coût par pixel est ainsi indépendant
+ * du rayon. L'image est découpée en bandes de lignes traitées en parallèle.
+ * </p>
+ *
+ * Exemple d'utilisation :
+ * <pre>
+ *     PGMImage img = PGMReader.read("coins.pgm");
+ *     PGMImage lisse = PGMMedian.median(img, 3);
+ *     PGMImage out = PGMThreshold.threshold(lisse, 120);
+ * </pre>
+ *
+ * @author hayta
+ */
+public class PGMMedian {
+
+    /** Nombre de niveaux de gris regroupés dans une case de l'histogramme grossier. */
+    private static final int TAILLE_CASE = 16;
+
+    /** Nombre de cases de l'histogramme grossier. */
+    private static final int NB_CASES = PGMHistogram.NB_NIVEAUX / TAILLE_CASE;
+
+    /** Hauteur minimale d'une bande de lignes traitée par une même tâche. */
+    private static final int HAUTEUR_MIN_BANDE = 16;
+
+    /**
+     * Applique un filtre médian de rayon donné.
+     *
+     * @param img    L'image d'entrée (valeurs entre 0 et 255).
+     * @param radius Le rayon de la fenêtre (0 renvoie une copie de l'image).
+     * @return Une nouvelle image filtrée. L'image originale n'est pas modifiée.
+     * @throws IllegalArgumentException Si le rayon est négatif ou trop grand
+     *                                  (fenêtre de plus de {@code Integer.MAX_VALUE} pixels).
+     */
+    public static PGMImage median(PGMImage img, int radius) {
+        return rank(img, radius, windowSize(radius) / 2);
+    }
+
+    /**
+     * Applique un filtre de rang de rayon donné.
+     *
+     * <p>
+     * Le rang 0 donne le minimum de la fenêtre (érosion), le rang
+     * {@code (2r+1)² - 1} le maximum (dilatation) et le rang
+     * {@code (2r+1)² / 2} la médiane.
+     * </p>
+     *
+     * @param img    L'image d'entrée (valeurs entre 0 et 255).
+     * @param radius Le rayon de la fenêtre.
+     * @param rang   Le rang recherché, entre 0 et {@code (2r+1)² - 1}.
+     * @return Une nouvelle image filtrée. L'image originale n'est pas modifiée.
+     * @throws IllegalArgumentException Si le rayon est négatif ou trop grand
+     *                                  (fenêtre de plus de {@code Integer.MAX_VALUE}
+     *                                  pixels), ou si le rang est hors de la fenêtre.
+     */
+    public static PGMImage rank(PGMImage img, int radius, int rang) {
+        int taille = windowSize(radius);
+        if (rang < 0 || rang >= taille) {
+            throw new IllegalArgumentException("Erreur : rang " + rang
+                + " hors de la fenêtre (0 à " + (taille - 1) + ")");
+        }
+
+        PGMImage out = new PGMImage(img.width, img.height);
+        if (img.width == 0 || img.height == 0) {
+            return out;
+        }
+
+        // Découpage en bandes : chaque bande possède ses propres histogrammes
+        // de colonnes et écrit des lignes disjointes de l'image de sortie.
+        int nbBandes = Math.max(1, Math.min(
+            Runtime.getRuntime().availableProcessors() * 4,
+            img.height / HAUTEUR_MIN_BANDE));
+        int hauteurBande = (img.height + nbBandes - 1) / nbBandes;
+
+        IntStream.range(0, nbBandes).parallel().forEach(b -> {
+            int y0 = b * hauteurBande;
+            int y1 = Math.min(img.height, y0 + hauteurBande);
+            if (y0 < y1) {
+                filterBand(img, out, radius, rang, y0, y1);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Calcule le nombre de pixels {@code (2r+1)²} d'une fenêtre de rayon donné.
+     * Le calcul est fait en {@code long} pour détecter les fenêtres dont la
+     * taille (et donc les compteurs des histogrammes) dépasserait un {@code int}.
+     *
+     * @param radius Le rayon de la fenêtre.
+     * @return Le nombre de pixels de la fenêtre.
+     * @throws IllegalArgumentException Si le rayon est négatif ou trop grand.
+     */
+    private static int windowSize(int radius) {
+        if (radius < 0) {
+            throw new IllegalArgumentException("Erreur : rayon négatif (" + radius + ")");
+        }
+        long cote = 2L * radius + 1;
+        // Comparaison par division : cote * cote peut lui-même dépasser un long
+        if (cote > Integer.MAX_VALUE / cote) {
+            throw new IllegalArgumentException("Erreur : rayon trop grand (" + radius
+                + "), la fenêtre dépasse " + Integer.MAX_VALUE + " pixels");
+        }
+        return (int) (cote * cote);
+    }
+
+    /**
+     * Filtre les lignes {@code [y0, y1[} de l'image.
+     *
+     * @param img    L'image d'entrée.
+     * @param out    L'image de sortie à remplir.
+     * @param radius Le rayon de la fenêtre.
+     * @param rang   Le rang recherché.
+     * @param y0     Première ligne de la bande (incluse).
+     * @param y1     Dernière ligne de la bande (exclue).
+     */
+    private static void filterBand(PGMImage img, PGMImage out, int radius, int rang, int y0, int y1) {
+        int w = img.width;
+        int h = img.height;
+
+        // Histogrammes de colonnes (fins et grossiers), à plat : colonne x en x * NB_NIVEAUX
+        int[] colFin = new int[w * PGMHistogram.NB_NIVEAUX];
+        int[] colGros = new int[w * NB_CASES];
+        // Histogrammes de la fenêtre courante
+        int[] fin = new int[PGMHistogram.NB_NIVEAUX];
+        int[] gros = new int[NB_CASES];
+
+        // Initialisation des colonnes pour la première ligne de la bande
+        for (int dy = -radius; dy <= radius; dy++) {
+            int[] ligne = img.pixels[clamp(y0 + dy, h)];
+            for (int x = 0; x < w; x++) {
+                int v = ligne[x];
+                colFin[x * PGMHistogram.NB_NIVEAUX + v]++;
+                colGros[x * NB_CASES + v / TAILLE_CASE]++;
+            }
+        }
+
+        for (int y = y0; y < y1; y++) {
+            // Descente d'une ligne : chaque colonne perd son pixel du haut et gagne un pixel en bas
+            if (y > y0) {
+                int[] sortante = img.pixels[clamp(y - radius - 1, h)];
+                int[] entrante = img.pixels[clamp(y + radius, h)];
+                if (sortante != entrante) {
+                    for (int x = 0; x < w; x++) {
+                        int v = sortante[x];
+                        colFin[x * PGMHistogram.NB_NIVEAUX + v]--;
+                        colGros[x * NB_CASES + v / TAILLE_CASE]--;
+                        v = entrante[x];
+                        colFin[x * PGMHistogram.NB_NIVEAUX + v]++;
+                        colGros[x * NB_CASES + v / TAILLE_CASE]++;
+                    }
+                }
+            }
+
+            // Fenêtre du premier pixel de la ligne
+            Arrays.fill(fin, 0);
+            Arrays.fill(gros, 0);
+            for (int dx = -radius; dx <= radius; dx++) {
+                addColumn(fin, gros, colFin, colGros, clamp(dx, w));
+            }
+            out.pixels[y][0] = select(fin, gros, rang);
+
+            // Glissement vers la droite : une colonne entre, une colonne sort
+            for (int x = 1; x < w; x++) {
+                int xSortant = clamp(x - radius - 1, w);
+                int xEntrant = clamp(x + radius, w);
+                if (xSortant != xEntrant) {
+                    slideColumn(fin, gros, colFin, colGros, xEntrant, xSortant);
+                }
+                out.pixels[y][x] = select(fin, gros, rang);
+            }
+        }
+    }
+
+    /**
+     * Ajoute l'histogramme d'une colonne à celui de la fenêtre.
+     *
+     * @param fin     Histogramme fin de la fenêtre.
+     * @param gros    Histogramme grossier de la fenêtre.
+     * @param colFin  Histogrammes fins des colonnes.
+     * @param colGros Histogrammes grossiers des colonnes.
+     * @param x       Indice de la colonne.
+     */
+    private static void addColumn(int[] fin, int[] gros, int[] colFin, int[] colGros, int x) {
+        int base = x * PGMHistogram.NB_NIVEAUX;
+        for (int v = 0; v < PGMHistogram.NB_NIVEAUX; v++) {
+            fin[v] += colFin[base + v];
+        }
+        base = x * NB_CASES;
+        for (int c = 0; c < NB_CASES; c++) {
+            gros[c] += colGros[base + c];
+        }
+    }
+
+    /**
+     * Remplace, dans l'histogramme de la fenêtre, la colonne sortante par la
+     * colonne entrante (les deux mises à jour en un seul parcours).
+     *
+     * @param fin      Histogramme fin de la fenêtre.
+     * @param gros     Histogramme grossier de la fenêtre.
+     * @param colFin   Histogrammes fins des colonnes.
+     * @param colGros  Histogrammes grossiers des colonnes.
+     * @param xEntrant Indice de la colonne qui entre dans la fenêtre.
+     * @param xSortant Indice de la colonne qui sort de la fenêtre.
+     */
+    private static void slideColumn(int[] fin, int[] gros, int[] colFin, int[] colGros, int xEntrant, int xSortant) {
+        int baseE = xEntrant * PGMHistogram.NB_NIVEAUX;
+        int baseS = xSortant * PGMHistogram.NB_NIVEAUX;
+        for (int v = 0; v < PGMHistogram.NB_NIVEAUX; v++) {
+            fin[v] += colFin[baseE + v] - colFin[baseS + v];
+        }
+        baseE = xEntrant * NB_CASES;
+        baseS = xSortant * NB_CASES;
+        for (int c = 0; c < NB_CASES; c++) {
+            gros[c] += colGros[baseE + c] - colGros[baseS + c];
+        }
+    }
+
+    /**
+     * Recherche le niveau de gris de rang donné dans l'histogramme de la fenêtre.
+     * On localise d'abord la case grossière contenant le rang, puis le niveau
+     * exact dans les 16 cases fines correspondantes.
+     *
+     * @param fin  Histogramme fin de la fenêtre.
+     * @param gros Histogramme grossier de la fenêtre.
+     * @param rang Le rang recherché.
+     * @return Le niveau de gris de rang {@code rang}.
+     */
+    private static int select(int[] fin, int[] gros, int rang) {
+        int cumul = 0;
+        int c = 0;
+        while (cumul + gros[c] <= rang) {
+            cumul += gros[c];
+            c++;
+        }
+        int v = c * TAILLE_CASE;
+        while (cumul + fin[v] <= rang) {
+            cumul += fin[v];
+            v++;
+        }
+        return v;
+    }
+
+    /**
+     * Ramène un indice dans l'intervalle {@code [0, n-1]} (réplication des bords).
+     *
+     * @param i L'indice à borner.
+     * @param n La taille de la dimension.
+     * @return L'indice borné.
+     */
+    private static int clamp(int i, int n) {
+        return i < 0 ? 0 : (i >= n ? n - 1 : i);
+    }
+}
@@ -32,6 +32,12 @@ package pgm;
  *     PGMWriter.write(out, "coins_seuil_120.pgm");
  * </pre>
  *
+ * <p>
+ * Lorsque le résultat sert de masque (comptage ou mesure d'objets avec
+ * {@link PGMLabeling}), {@link #thresholdBinary(PGMImage, int)} produit
+ * directement une {@link PGMBinaryImage} sur 1 bit par pixel.
+ * </p>
+ *
  * @author hayta
  */
 public class PGMThreshold {
@@ -67,4 +73,39 @@ public class PGMThreshold {
         }
         return out;
     }
+
+    /**
+     * Applique un seuillage binaire et stocke le résultat sur 1 bit par pixel.
+     *
+     * <p>
+     * Même règle que {@link #threshold(PGMImage, int)} : un pixel vaut 1
+     * (blanc) si {@code pixel ≥ seuil}, 0 (noir) sinon. Les bits sont
+     * assemblés par mots de 64 pixels sans passer par une image intermédiaire.
+     * </p>
+     *
+     * @param img   L'image d'entrée en niveaux de gris.
+     * @param seuil La valeur de seuil (entre 0 et 255).
+     * @return Une nouvelle image binaire. Jamais {@code null}.
+     *         L'image originale n'est pas modifiée.
+     */
+    public static PGMBinaryImage thresholdBinary(PGMImage img, int seuil) {
+        PGMBinaryImage out = new PGMBinaryImage(img.width, img.height);
+
+        for (int i = 0; i < img.height; i++) {
+            int[] ligne = img.pixels[i];
+            int debut = i * out.wordsPerRow;
+            for (int k = 0; k < out.wordsPerRow; k++) {
+                int x0 = k << 6;
+                int x1 = Math.min(img.width, x0 + 64);
+                long mot = 0;
+                for (int j = x0; j < x1; j++) {
+                    if (ligne[j] >= seuil) {
+                        mot |= 1L << j;
+                    }
+                }
+                out.bits[debut + k] = mot;
+            }
+        }
+        return out;
+    }
 }
@@ -12,8 +12,8 @@ import java.io.File;
  * Cette fenêtre Swing permet de charger, visualiser, traiter et sauvegarder
  * des images au format PGM (P2). Elle s'appuie sur les classes du package 
  * {@code pgm} pour effectuer les différentes opérations de traitement 
- * d'image : lecture, écriture, seuillage, histogramme, agrandissement, 
- * réduction et différence.
+ * d'image : lecture, écriture, seuillage, filtre médian, histogramme,
+ * composantes connexes, agrandissement, réduction et différence.
  * </p>
  *
  * <p>
@@ -80,13 +80,17 @@ public class PGMViewer extends JFrame {
         // ==== PANEL DES BOUTONS ====
         JPanel btnPanel = new JPanel();
         JButton thresholdBtn = new JButton("Seuillage");
+        JButton medianBtn = new JButton("Médian");
         JButton histogramBtn = new JButton("Histogramme");
+        JButton componentsBtn = new JButton("Composantes");
         JButton enlargeBtn = new JButton("Agrandir x2");
         JButton reduceBtn = new JButton("Réduire x2");
         JButton diffBtn = new JButton("Différence");
 
         btnPanel.add(thresholdBtn);
+        btnPanel.add(medianBtn);
         btnPanel.add(histogramBtn);
+        btnPanel.add(componentsBtn);
         btnPanel.add(enlargeBtn);
         btnPanel.add(reduceBtn);
         btnPanel.add(diffBtn);
@@ -107,7 +111,19 @@ public class PGMViewer extends JFrame {
                 JOptionPane.showMessageDialog(this, "Erreur seuil !");
             }
         });
+        medianBtn.addActionListener(e -> {
+            if (currentImage == null) return;
+            String s = JOptionPane.showInputDialog("Rayon ?");
+            try {
+                int rayon = Integer.parseInt(s);
+                currentImage = PGMMedian.median(currentImage, rayon);
+                displayImage();
+            } catch (Exception ex) {
+                JOptionPane.showMessageDialog(this, "Erreur rayon !");
+            }
+        });
         histogramBtn.addActionListener(e -> showHistogram());
+        componentsBtn.addActionListener(e -> showComponents());
         enlargeBtn.addActionListener(e -> {
             if (currentImage == null) return;
             currentImage = PGMResize.enlarge(currentImage, 2);
@@ -194,6 +210,39 @@ public class PGMViewer extends JFrame {
                 JOptionPane.PLAIN_MESSAGE);
     }
 
+    /**
+     * Seuille l'image courante puis affiche ses composantes connexes
+     * (8-connexité) dans une fenêtre popup.
+     *
+     * <p>
+     * Utilise {@link PGMThreshold#thresholdBinary(PGMImage, int)} et
+     * {@link PGMLabeling}. Pour chaque composante, la surface, la boîte
+     * englobante et le centre de gravité sont affichés sous forme de texte.
+     * </p>
+     */
+    private void showComponents() {
+        if (currentImage == null) return;
+
+        String s = JOptionPane.showInputDialog("Seuil ?");
+        try {
+            int seuil = Integer.parseInt(s);
+            PGMLabeling cc = PGMLabeling.label(PGMThreshold.thresholdBinary(currentImage, seuil), 8);
+            JTextArea txt = new JTextArea();
+
+            txt.append("Nombre de composantes : " + cc.components.size() + "\n");
+            for (PGMComponent c : cc.components) {
+                txt.append(c + "\n");
+            }
+
+            JOptionPane.showMessageDialog(this,
+                    new JScrollPane(txt),
+                    "Composantes connexes",
+                    JOptionPane.PLAIN_MESSAGE);
+        } catch (Exception ex) {
+            JOptionPane.showMessageDialog(this, "Erreur seuil !");
+        }
+    }
+
     /**
      * Applique la différence absolue entre l’image courante et une deuxième image
      * sélectionnée par l’utilisateur.